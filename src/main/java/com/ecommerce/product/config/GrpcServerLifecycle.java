@@ -0,0 +1,93 @@
+package com.ecommerce.product.config;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the gRPC server next to the embedded web server and ties it to the application lifecycle.
+ * Calls run on a fixed-size pool instead of gRPC's default unbounded cached pool, so a burst of calls
+ * cannot spawn a thread each; admission beyond that is left to the load-shedding interceptor.
+ */
+@Component
+@ConditionalOnProperty(name = "product.grpc.enabled", havingValue = "true", matchIfMissing = true)
+public class GrpcServerLifecycle implements SmartLifecycle {
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+    private final List<BindableService> services;
+    private final List<ServerInterceptor> interceptors;
+    private final int port;
+    private final int executorThreads;
+    private final long shutdownGraceSeconds;
+    private Server server;
+    private ExecutorService executor;
+
+    public GrpcServerLifecycle(List<BindableService> services,
+                            ObjectProvider<ServerInterceptor> interceptors,
+                            @Value("${product.grpc.port:9090}") int port,
+                            @Value("${product.grpc.executor-threads:16}") int executorThreads,
+                            @Value("${product.grpc.shutdown-grace-seconds:10}") long shutdownGraceSeconds) {
+        this.services = services;
+        this.interceptors = interceptors.orderedStream().toList();
+        this.port = port;
+        this.executorThreads = executorThreads;
+        this.shutdownGraceSeconds = shutdownGraceSeconds;
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newFixedThreadPool(executorThreads, new CustomizableThreadFactory("grpc-"));
+        NettyServerBuilder builder = NettyServerBuilder.forPort(port).executor(executor);
+        services.forEach(service -> builder.addService(ServerInterceptors.intercept(service, interceptors)));
+        try {
+            server = builder.build().start();
+        } catch (IOException e) {
+            executor.shutdown();
+            throw new UncheckedIOException("Failed to start gRPC server on port " + port, e);
+        }
+        logger.info("gRPC server started on port {}", server.getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(shutdownGraceSeconds, TimeUnit.SECONDS)) {
+                server.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            server.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdown();
+        server = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null && !server.isShutdown();
+    }
+
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getPort();
+    }
+}
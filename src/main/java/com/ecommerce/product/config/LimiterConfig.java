@@ -0,0 +1,34 @@
+package com.ecommerce.product.config;
+
+import com.ecommerce.product.grpc.GrpcConcurrencyLimitInterceptor;
+import com.ecommerce.product.limiter.ConcurrencyLimitInterceptor;
+import com.ecommerce.product.limiter.ConcurrencyLimiters;
+import com.ecommerce.product.limiter.LimiterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LimiterProperties.class)
+@ConditionalOnProperty(name = "product.limiter.enabled", havingValue = "true", matchIfMissing = true)
+public class LimiterConfig {
+    @Bean
+    public ConcurrencyLimiters concurrencyLimiters(LimiterProperties limiterProperties, MeterRegistry meterRegistry) {
+        return new ConcurrencyLimiters(limiterProperties, meterRegistry);
+    }
+
+    @Bean
+    public ConcurrencyLimitInterceptor concurrencyLimitInterceptor(LimiterProperties limiterProperties,
+                                                                   ConcurrencyLimiters concurrencyLimiters,
+                                                                   MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitInterceptor(limiterProperties, concurrencyLimiters, meterRegistry);
+    }
+
+    @Bean
+    public GrpcConcurrencyLimitInterceptor grpcConcurrencyLimitInterceptor(LimiterProperties limiterProperties,
+                                                                           ConcurrencyLimiters concurrencyLimiters) {
+        return new GrpcConcurrencyLimitInterceptor(concurrencyLimiters, limiterProperties.getRetryAfter());
+    }
+}
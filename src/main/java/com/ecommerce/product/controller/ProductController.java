@@ -1,6 +1,8 @@
 package com.ecommerce.product.controller;
 
+import com.ecommerce.product.dto.InventorySummaryDto;
 import com.ecommerce.product.dto.QuantityDto;
+import com.ecommerce.product.service.InventoryService;
 import com.ecommerce.product.service.ProductService;
 import com.ecommerce.product.dto.ProductRequestDto;
 import com.ecommerce.product.dto.ProductResponseDto;
@@ -18,10 +20,12 @@ import java.util.UUID;
 @RequestMapping("/products")
 public class ProductController {
     private final ProductService productService;
+    private final InventoryService inventoryService;
     private static final Logger logger = LoggerFactory.getLogger(ProductController.class);
 
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService, InventoryService inventoryService) {
         this.productService = productService;
+        this.inventoryService = inventoryService;
     }
 
     @PostMapping
@@ -50,6 +54,18 @@ public class ProductController {
         return productService.getProducts(name, pageable);
     }
 
+    @GetMapping("/low-stock")
+    public Page<ProductResponseDto> getLowStock(@RequestParam(required = false) Integer threshold, Pageable pageable) {
+        logger.info("Get low stock products request {} {}", threshold, pageable.toString());
+        return inventoryService.getLowStock(threshold, pageable);
+    }
+
+    @GetMapping("/inventory-summary")
+    public ResponseEntity<InventorySummaryDto> getInventorySummary() {
+        logger.info("Get inventory summary request");
+        return ResponseEntity.ok(inventoryService.getSummary());
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable UUID id) {
         productService.delete(id);
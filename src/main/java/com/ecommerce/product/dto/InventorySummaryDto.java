@@ -0,0 +1,18 @@
+package com.ecommerce.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventorySummaryDto {
+    private Long totalQuantity;
+    private BigDecimal totalValue;
+    private Long productCount;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.product.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+public class ConcurrencyLimitException extends RuntimeException {
+    private final HttpStatus status;
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitException(String message, HttpStatus status, Duration retryAfter) {
+        super(message);
+        this.status = status;
+        this.retryAfter = retryAfter;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,129 @@
+package com.ecommerce.product.grpc;
+
+import com.ecommerce.product.limiter.AdaptiveConcurrencyLimiter;
+import com.ecommerce.product.limiter.ConcurrencyLimiters;
+import com.ecommerce.product.limiter.ConcurrencyLimiters.Budget;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Applies the REST load-shedding budgets to the gRPC API: lookups and listings draw from the read
+ * budget, dispense and restock from the inventory budget. Rejected calls fail fast with UNAVAILABLE
+ * and a {@code grpc-retry-pushback-ms} trailer, which gRPC clients with a retry policy honour.
+ */
+public class GrpcConcurrencyLimitInterceptor implements ServerInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(GrpcConcurrencyLimitInterceptor.class);
+    static final Metadata.Key<String> RETRY_PUSHBACK_KEY =
+            Metadata.Key.of("grpc-retry-pushback-ms", Metadata.ASCII_STRING_MARSHALLER);
+    private static final Set<String> INVENTORY_METHODS = Set.of(
+            ProductCatalogGrpc.getDispenseMethod().getFullMethodName(),
+            ProductCatalogGrpc.getRestockMethod().getFullMethodName());
+    private static final Set<Status.Code> FAILURES = EnumSet.of(Status.Code.INTERNAL, Status.Code.UNKNOWN,
+            Status.Code.UNAVAILABLE, Status.Code.DEADLINE_EXCEEDED);
+
+    private final ConcurrencyLimiters limiters;
+    private final Duration retryAfter;
+
+    public GrpcConcurrencyLimitInterceptor(ConcurrencyLimiters limiters, Duration retryAfter) {
+        this.limiters = limiters;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        Budget budget = budgetFor(call.getMethodDescriptor());
+        AdaptiveConcurrencyLimiter limiter = limiters.get(budget);
+        if (!limiter.tryAcquire()) {
+            limiters.recordRejection(budget);
+            logger.debug("Shedding {} call {}, limit {} reached", limiter.getName(),
+                    call.getMethodDescriptor().getBareMethodName(), limiter.getLimit());
+            Metadata trailers = new Metadata();
+            trailers.put(RETRY_PUSHBACK_KEY, Long.toString(retryAfter.toMillis()));
+            call.close(Status.UNAVAILABLE.withDescription("Service is overloaded, please retry later"), trailers);
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        Permit permit = new Permit(limiter, call.getMethodDescriptor().getType().serverSendsOneMessage());
+        ServerCall<ReqT, RespT> tracked = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void close(Status status, Metadata trailers) {
+                permit.failed = FAILURES.contains(status.getCode());
+                super.close(status, trailers);
+            }
+        };
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(tracked, headers);
+        } catch (RuntimeException e) {
+            permit.failed = true;
+            permit.release();
+            throw e;
+        }
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onComplete() {
+                try {
+                    super.onComplete();
+                } finally {
+                    permit.release();
+                }
+            }
+
+            @Override
+            public void onCancel() {
+                try {
+                    super.onCancel();
+                } finally {
+                    permit.release();
+                }
+            }
+        };
+    }
+
+    static Budget budgetFor(MethodDescriptor<?, ?> method) {
+        return INVENTORY_METHODS.contains(method.getFullMethodName()) ? Budget.INVENTORY : Budget.READ;
+    }
+
+    /**
+     * Streaming calls last as long as the consumer keeps reading, so only unary calls feed their
+     * latency back into the limit.
+     */
+    private static final class Permit {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final boolean sampled;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean failed;
+
+        private Permit(AdaptiveConcurrencyLimiter limiter, boolean sampled) {
+            this.limiter = limiter;
+            this.sampled = sampled;
+        }
+
+        private void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            if (sampled) {
+                limiter.release(System.nanoTime() - startNanos, failed);
+            } else {
+                limiter.release();
+            }
+        }
+    }
+}
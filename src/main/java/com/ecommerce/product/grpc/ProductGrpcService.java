@@ -0,0 +1,165 @@
+package com.ecommerce.product.grpc;
+
+import com.ecommerce.product.dto.ProductResponseDto;
+import com.ecommerce.product.exception.ProductException;
+import com.ecommerce.product.mapper.GrpcProductMapper;
+import com.ecommerce.product.service.ProductService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * gRPC counterpart of {@code ProductController} for internal callers. Delegates to the same
+ * {@link ProductService} so both interfaces share validation and inventory bookkeeping.
+ */
+@Component
+public class ProductGrpcService extends ProductCatalogGrpc.ProductCatalogImplBase {
+    private static final Logger logger = LoggerFactory.getLogger(ProductGrpcService.class);
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    private final ProductService productService;
+    private final GrpcProductMapper grpcProductMapper;
+
+    public ProductGrpcService(ProductService productService, GrpcProductMapper grpcProductMapper) {
+        this.productService = productService;
+        this.grpcProductMapper = grpcProductMapper;
+    }
+
+    @Override
+    public void getProduct(GetProductRequest request, StreamObserver<Product> responseObserver) {
+        unary(responseObserver, () -> grpcProductMapper.toProto(productService.get(parseId(request.getId()))));
+    }
+
+    @Override
+    public void batchGetProducts(BatchGetProductsRequest request, StreamObserver<BatchGetProductsResponse> responseObserver) {
+        unary(responseObserver, () -> {
+            if (request.getIdsCount() > MAX_BATCH_SIZE) {
+                throw new ProductException("Batch size cannot exceed " + MAX_BATCH_SIZE);
+            }
+            Set<UUID> ids = new LinkedHashSet<>();
+            request.getIdsList().forEach(id -> ids.add(parseId(id)));
+
+            BatchGetProductsResponse.Builder response = BatchGetProductsResponse.newBuilder();
+            for (ProductResponseDto product : productService.getAll(ids)) {
+                ids.remove(product.getId());
+                response.addProducts(grpcProductMapper.toProto(product));
+            }
+            ids.forEach(id -> response.addMissingIds(id.toString()));
+            return response.build();
+        });
+    }
+
+    @Override
+    public void listProducts(ListProductsRequest request, StreamObserver<Product> responseObserver) {
+        ServerCallStreamObserver<Product> observer = (ServerCallStreamObserver<Product>) responseObserver;
+        int pageSize = request.getPageSize() <= 0 ? DEFAULT_PAGE_SIZE : Math.min(request.getPageSize(), MAX_PAGE_SIZE);
+        String name = request.getName().isEmpty() ? null : request.getName();
+        logger.info("gRPC list products request {} {}", name, pageSize);
+
+        CatalogStream stream = new CatalogStream(observer, name, pageSize);
+        observer.setOnCancelHandler(() -> logger.info("gRPC list products cancelled by client"));
+        observer.setOnReadyHandler(stream);
+    }
+
+    /**
+     * Streams the catalog one keyset page at a time, only while the transport is ready for more, so
+     * a slow consumer makes the server stop reading pages instead of buffering the catalog. gRPC
+     * invokes it again each time the call becomes ready.
+     */
+    private final class CatalogStream implements Runnable {
+        private final ServerCallStreamObserver<Product> observer;
+        private final String name;
+        private final int pageSize;
+        private Iterator<ProductResponseDto> page = Collections.emptyIterator();
+        private UUID lastId = FIRST_ID;
+        private boolean hasMorePages = true;
+        private boolean done;
+
+        private CatalogStream(ServerCallStreamObserver<Product> observer, String name, int pageSize) {
+            this.observer = observer;
+            this.name = name;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public synchronized void run() {
+            try {
+                while (!done && !observer.isCancelled() && observer.isReady()) {
+                    if (!page.hasNext()) {
+                        if (!hasMorePages) {
+                            done = true;
+                            observer.onCompleted();
+                            return;
+                        }
+                        Slice<ProductResponseDto> slice = productService.getProductsAfter(name, lastId, pageSize);
+                        page = slice.iterator();
+                        hasMorePages = slice.hasNext();
+                        continue;
+                    }
+                    ProductResponseDto product = page.next();
+                    lastId = product.getId();
+                    observer.onNext(grpcProductMapper.toProto(product));
+                }
+            } catch (RuntimeException e) {
+                done = true;
+                observer.onError(toStatus(e));
+            }
+        }
+    }
+
+    @Override
+    public void dispense(InventoryRequest request, StreamObserver<Product> responseObserver) {
+        logger.info("gRPC dispense product request {}", request.getId());
+        unary(responseObserver, () -> grpcProductMapper.toProto(
+                productService.dispense(parseId(request.getId()), request.getQuantity())));
+    }
+
+    @Override
+    public void restock(InventoryRequest request, StreamObserver<Product> responseObserver) {
+        logger.info("gRPC restock product request {}", request.getId());
+        unary(responseObserver, () -> grpcProductMapper.toProto(
+                productService.restock(parseId(request.getId()), request.getQuantity())));
+    }
+
+    private static <T> void unary(StreamObserver<T> responseObserver, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e));
+            return;
+        }
+        responseObserver.onNext(response);
+        responseObserver.onCompleted();
+    }
+
+    private static UUID parseId(String id) {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new ProductException("Invalid product id: " + id, e);
+        }
+    }
+
+    private static StatusRuntimeException toStatus(RuntimeException e) {
+        if (e instanceof NoSuchElementException) {
+            return Status.NOT_FOUND.withDescription(e.getMessage()).asRuntimeException();
+        }
+        if (e instanceof ProductException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException();
+        }
+        logger.error("Unexpected error handling gRPC request", e);
+        return Status.INTERNAL.withDescription("An unexpected error occurred: " + e.getMessage()).asRuntimeException();
+    }
+}
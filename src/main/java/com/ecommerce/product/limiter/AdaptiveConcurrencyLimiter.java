@@ -0,0 +1,71 @@
+package com.ecommerce.product.limiter;
+
+/**
+ * AIMD concurrency limiter. The limit grows by one for every request that completes under the
+ * latency threshold while the limiter is at least half utilised, and shrinks multiplicatively
+ * whenever a request is slow or fails.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inflight;
+
+    public AdaptiveConcurrencyLimiter(String name, LimiterProperties.Budget budget) {
+        if (budget.getMinLimit() < 1 || budget.getMinLimit() > budget.getMaxLimit()) {
+            throw new IllegalArgumentException("Invalid limits for budget " + name);
+        }
+        if (budget.getBackoffRatio() <= 0 || budget.getBackoffRatio() >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1 for budget " + name);
+        }
+        this.name = name;
+        this.minLimit = budget.getMinLimit();
+        this.maxLimit = budget.getMaxLimit();
+        this.latencyThresholdNanos = budget.getLatencyThreshold().toNanos();
+        this.backoffRatio = budget.getBackoffRatio();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, budget.getInitialLimit()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (inflight >= (int) limit) {
+            return false;
+        }
+        inflight++;
+        return true;
+    }
+
+    public synchronized void release(long latencyNanos, boolean failed) {
+        int inflightAtCompletion = inflight;
+        inflight--;
+
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (inflightAtCompletion * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    /**
+     * Releases a permit without adjusting the limit, for calls whose duration is set by the caller
+     * (e.g. a stream paced by a slow consumer) rather than by the service.
+     */
+    public synchronized void release() {
+        inflight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInflight() {
+        return inflight;
+    }
+}
@@ -0,0 +1,140 @@
+package com.ecommerce.product.limiter;
+
+import com.ecommerce.product.exception.ConcurrencyLimitException;
+import com.ecommerce.product.limiter.ConcurrencyLimiters.Budget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Sheds load on the product endpoints before it reaches the database. Reads, catalog writes and
+ * inventory movements (dispense/restock) each get their own adaptive budget so a flood of list
+ * requests cannot starve stock updates. The budgets are shared with the gRPC API through
+ * {@link ConcurrencyLimiters}. Optionally, callers identifying themselves through the client
+ * id header are also capped on in-flight requests within each budget.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitInterceptor.class);
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private record ClientKey(String clientId, Budget budget) {
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, ClientKey client, long startNanos) {
+    }
+
+    private final LimiterProperties properties;
+    private final ConcurrencyLimiters limiters;
+    private final Map<Budget, Counter> clientRejections = new EnumMap<>(Budget.class);
+    private final ConcurrentHashMap<ClientKey, Integer> clientInflight = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public ConcurrencyLimitInterceptor(LimiterProperties properties, ConcurrencyLimiters limiters,
+                                       MeterRegistry meterRegistry) {
+        this(properties, limiters, meterRegistry, System::nanoTime);
+    }
+
+    ConcurrencyLimitInterceptor(LimiterProperties properties, ConcurrencyLimiters limiters, MeterRegistry meterRegistry,
+                                LongSupplier nanoClock) {
+        this.properties = properties;
+        this.limiters = limiters;
+        this.nanoClock = nanoClock;
+        for (Budget budget : Budget.values()) {
+            clientRejections.put(budget, Counter.builder("product.limiter.rejected")
+                    .tag("budget", limiters.get(budget).getName())
+                    .tag("reason", "client")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("product.limiter.clients", clientInflight, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Budget budget = budgetFor(request);
+        AdaptiveConcurrencyLimiter limiter = limiters.get(budget);
+        ClientKey client = clientKeyFor(request, budget);
+
+        // Rejections are counted in product.limiter.rejected; logging each one would add I/O while overloaded
+        if (client != null && !acquireClient(client)) {
+            clientRejections.get(budget).increment();
+            logger.debug("Client {} exceeded {} concurrent {} requests", client.clientId(), properties.getPerClientLimit(), limiter.getName());
+            throw new ConcurrencyLimitException("Too many concurrent requests for client " + client.clientId(),
+                    HttpStatus.TOO_MANY_REQUESTS, properties.getRetryAfter());
+        }
+        if (!limiter.tryAcquire()) {
+            releaseClient(client);
+            limiters.recordRejection(budget);
+            logger.debug("Shedding {} request, limit {} reached", limiter.getName(), limiter.getLimit());
+            throw new ConcurrencyLimitException("Service is overloaded, please retry later",
+                    HttpStatus.SERVICE_UNAVAILABLE, properties.getRetryAfter());
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, client, nanoClock.getAsLong()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Permit permit = (Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit == null) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+
+        boolean failed = ex != null || response.getStatus() >= 500;
+        permit.limiter().release(nanoClock.getAsLong() - permit.startNanos(), failed);
+        releaseClient(permit.client());
+    }
+
+    static Budget budgetFor(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.endsWith("/dispense") || uri.endsWith("/restock")) {
+            return Budget.INVENTORY;
+        }
+        return HttpMethod.GET.matches(request.getMethod()) ? Budget.READ : Budget.WRITE;
+    }
+
+    /**
+     * Returns null when the per-client cap is disabled or the caller sent no client id. Remote addresses
+     * are deliberately not used as a fallback, since all traffic through a gateway shares one.
+     */
+    private ClientKey clientKeyFor(HttpServletRequest request, Budget budget) {
+        if (properties.getPerClientLimit() <= 0) {
+            return null;
+        }
+        String clientId = request.getHeader(properties.getClientIdHeader());
+        return (clientId == null || clientId.isBlank()) ? null : new ClientKey(clientId, budget);
+    }
+
+    private boolean acquireClient(ClientKey client) {
+        boolean[] acquired = {false};
+        clientInflight.compute(client, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= properties.getPerClientLimit()) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private void releaseClient(ClientKey client) {
+        if (client == null) {
+            return;
+        }
+        clientInflight.computeIfPresent(client, (key, count) -> count <= 1 ? null : count - 1);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecommerce.product.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The adaptive limiters, one per budget, shared by the REST and gRPC interceptors so both transports
+ * draw from the same capacity in front of the database.
+ */
+public class ConcurrencyLimiters {
+    public enum Budget { READ, WRITE, INVENTORY }
+
+    private final Map<Budget, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(Budget.class);
+    private final Map<Budget, Counter> rejections = new EnumMap<>(Budget.class);
+
+    public ConcurrencyLimiters(LimiterProperties properties, MeterRegistry meterRegistry) {
+        limiters.put(Budget.READ, new AdaptiveConcurrencyLimiter("read", properties.getRead()));
+        limiters.put(Budget.WRITE, new AdaptiveConcurrencyLimiter("write", properties.getWrite()));
+        limiters.put(Budget.INVENTORY, new AdaptiveConcurrencyLimiter("inventory", properties.getInventory()));
+
+        limiters.forEach((budget, limiter) -> {
+            Gauge.builder("product.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("budget", limiter.getName())
+                    .register(meterRegistry);
+            Gauge.builder("product.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                    .tag("budget", limiter.getName())
+                    .register(meterRegistry);
+            rejections.put(budget, Counter.builder("product.limiter.rejected")
+                    .tag("budget", limiter.getName())
+                    .tag("reason", "limit")
+                    .register(meterRegistry));
+        });
+    }
+
+    public AdaptiveConcurrencyLimiter get(Budget budget) {
+        return limiters.get(budget);
+    }
+
+    public void recordRejection(Budget budget) {
+        rejections.get(budget).increment();
+    }
+}
@@ -0,0 +1,30 @@
+package com.ecommerce.product.limiter;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "product.limiter")
+public class LimiterProperties {
+    private boolean enabled = true;
+    private Budget read = new Budget();
+    private Budget write = new Budget();
+    private Budget inventory = new Budget();
+    /**
+     * Maximum in-flight requests per client id and budget; 0 disables the per-client cap.
+     */
+    private int perClientLimit = 0;
+    private String clientIdHeader = "X-Client-Id";
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    @Data
+    public static class Budget {
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+        private Duration latencyThreshold = Duration.ofMillis(250);
+        private double backoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,61 @@
+package com.ecommerce.product.mapper;
+
+import com.ecommerce.product.dto.ProductResponseDto;
+import com.ecommerce.product.grpc.Decimal;
+import com.ecommerce.product.grpc.Product;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Timestamp;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Maps products to their Protobuf representation. Written by hand because MapStruct does not
+ * handle generated Protobuf builders well.
+ */
+@Component
+public class GrpcProductMapper {
+    public Product toProto(ProductResponseDto dto) {
+        Product.Builder builder = Product.newBuilder()
+                .setId(dto.getId().toString())
+                .setName(dto.getName())
+                .setVoided(Boolean.TRUE.equals(dto.getVoided()));
+        if (dto.getQuantity() != null) {
+            builder.setQuantity(dto.getQuantity());
+        }
+        if (dto.getPrice() != null) {
+            builder.setPrice(toProto(dto.getPrice()));
+        }
+        if (dto.getCreatedAt() != null) {
+            builder.setCreatedAt(toProto(dto.getCreatedAt()));
+        }
+        if (dto.getUpdatedAt() != null) {
+            builder.setUpdatedAt(toProto(dto.getUpdatedAt()));
+        }
+        return builder.build();
+    }
+
+    public Decimal toProto(BigDecimal value) {
+        return Decimal.newBuilder()
+                .setUnscaled(ByteString.copyFrom(value.unscaledValue().toByteArray()))
+                .setScale(value.scale())
+                .build();
+    }
+
+    public BigDecimal fromProto(Decimal value) {
+        BigInteger unscaled = value.getUnscaled().isEmpty() ? BigInteger.ZERO : new BigInteger(value.getUnscaled().toByteArray());
+        return new BigDecimal(unscaled, value.getScale());
+    }
+
+    public Timestamp toProto(LocalDateTime value) {
+        Instant instant = value.atZone(ZoneId.systemDefault()).toInstant();
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+}
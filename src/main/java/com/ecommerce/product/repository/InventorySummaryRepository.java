@@ -0,0 +1,26 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.dto.InventorySummaryDto;
+import com.ecommerce.product.model.InventorySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Repository
+public interface InventorySummaryRepository extends JpaRepository<InventorySummary, Integer> {
+    @Modifying
+    @Query("UPDATE InventorySummary s SET s.totalQuantity = s.totalQuantity + :quantity, " +
+            "s.totalValue = s.totalValue + :value, s.productCount = s.productCount + :count, " +
+            "s.updatedAt = :updatedAt WHERE s.slot = :slot")
+    int applyDelta(@Param("slot") Integer slot, @Param("quantity") long quantity, @Param("value") BigDecimal value,
+                   @Param("count") long count, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT new com.ecommerce.product.dto.InventorySummaryDto(SUM(s.totalQuantity), SUM(s.totalValue), " +
+            "SUM(s.productCount), MAX(s.updatedAt)) FROM InventorySummary s")
+    InventorySummaryDto summarize();
+}
@@ -3,13 +3,31 @@ package com.ecommerce.product.repository;
 import com.ecommerce.product.model.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID> {
     Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    Slice<Product> findByIdGreaterThanOrderByIdAsc(UUID lastId, Pageable pageable);
+    Slice<Product> findByNameContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String name, UUID lastId, Pageable pageable);
     boolean existsByNameIgnoreCaseAndVoidedFalse(String name);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") UUID id);
+
+    Page<Product> findByVoidedFalseAndQuantityLessThan(Integer threshold, Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(p.quantity), 0), COALESCE(SUM(p.quantity * p.price), 0), COUNT(p) " +
+            "FROM Product p WHERE p.voided = false")
+    List<Object[]> computeInventoryTotals();
 }
@@ -0,0 +1,157 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.InventorySummaryDto;
+import com.ecommerce.product.dto.ProductResponseDto;
+import com.ecommerce.product.mapper.ProductMapper;
+import com.ecommerce.product.model.InventorySummary;
+import com.ecommerce.product.model.Product;
+import com.ecommerce.product.repository.InventorySummaryRepository;
+import com.ecommerce.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Maintains the running inventory totals in {@code inventory_summary} so dashboards never have to
+ * scan the catalog. Totals are striped over {@link InventorySummary#SLOTS} rows keyed by product
+ * id, so concurrent writes to different products rarely wait on the same row lock.
+ * {@link ProductService} reports every change to a product's contribution, and a scheduled
+ * reconcile recomputes the totals from the product table to detect and repair drift.
+ */
+@Service
+public class InventoryService {
+    private static final Logger logger = LoggerFactory.getLogger(InventoryService.class);
+    private final InventorySummaryRepository inventorySummaryRepository;
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final Counter driftCounter;
+    private final int defaultLowStockThreshold;
+    private final TransactionTemplate snapshotTemplate;
+    private final TransactionTemplate writeTemplate;
+
+    /**
+     * A product's contribution to the running totals; voided products contribute nothing.
+     */
+    public record Contribution(long quantity, BigDecimal value, long count) {
+        public static final Contribution NONE = new Contribution(0, BigDecimal.ZERO, 0);
+
+        public static Contribution of(Product product) {
+            if (product == null || product.isVoided()) {
+                return NONE;
+            }
+            long quantity = product.getQuantity() == null ? 0 : product.getQuantity();
+            BigDecimal price = product.getPrice() == null ? BigDecimal.ZERO : product.getPrice();
+            return new Contribution(quantity, price.multiply(BigDecimal.valueOf(quantity)), 1);
+        }
+    }
+
+    public InventoryService(InventorySummaryRepository inventorySummaryRepository,
+                            ProductRepository productRepository,
+                            ProductMapper productMapper,
+                            MeterRegistry meterRegistry,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${product.inventory.low-stock-threshold:10}") int defaultLowStockThreshold) {
+        this.inventorySummaryRepository = inventorySummaryRepository;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.driftCounter = meterRegistry.counter("product.inventory.reconcile.drift");
+        this.defaultLowStockThreshold = defaultLowStockThreshold;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public void recordChange(UUID productId, Contribution before, Contribution after) {
+        long quantity = after.quantity() - before.quantity();
+        BigDecimal value = after.value().subtract(before.value());
+        long count = after.count() - before.count();
+        if (quantity == 0 && value.signum() == 0 && count == 0) {
+            return;
+        }
+        int slot = slotFor(productId);
+        int updated = inventorySummaryRepository.applyDelta(slot, quantity, value, count, LocalDateTime.now());
+        if (updated == 0) {
+            logger.error("Inventory summary slot {} is missing, totals will be rebuilt on next reconcile", slot);
+        }
+    }
+
+    public InventorySummaryDto getSummary() {
+        InventorySummaryDto summary = inventorySummaryRepository.summarize();
+        if (summary == null || summary.getTotalQuantity() == null) {
+            throw new NoSuchElementException("Inventory summary does not exist");
+        }
+        return summary;
+    }
+
+    public Page<ProductResponseDto> getLowStock(Integer threshold, Pageable pageable) {
+        int limit = threshold == null ? defaultLowStockThreshold : threshold;
+        return productRepository.findByVoidedFalseAndQuantityLessThan(limit, pageable).map(productMapper::toDto);
+    }
+
+    /**
+     * Recomputes the totals from the product table and corrects the slots if their sum differs. Both
+     * sums are read from the same repeatable-read snapshot without taking any locks, so writers are
+     * never blocked by the scan. Since every writer updates its product and its slot in one
+     * transaction, the snapshot is self-consistent and the difference is exactly the drift; it is
+     * added to slot 0 as a delta in a short second transaction, which commutes with any writes that
+     * committed in between.
+     */
+    @Scheduled(fixedDelayString = "${product.inventory.reconcile-interval:PT5M}",
+            initialDelayString = "${product.inventory.reconcile-interval:PT5M}")
+    public boolean reconcile() {
+        Contribution drift = snapshotTemplate.execute(status -> {
+            InventorySummaryDto summary = inventorySummaryRepository.summarize();
+            Object[] totals = productRepository.computeInventoryTotals().get(0);
+            long quantity = ((Number) totals[0]).longValue() - zeroIfNull(summary.getTotalQuantity());
+            BigDecimal value = toBigDecimal(totals[1])
+                    .subtract(summary.getTotalValue() == null ? BigDecimal.ZERO : summary.getTotalValue());
+            long count = ((Number) totals[2]).longValue() - zeroIfNull(summary.getProductCount());
+            return new Contribution(quantity, value, count);
+        });
+        if (drift == null || (drift.quantity() == 0 && drift.value().signum() == 0 && drift.count() == 0)) {
+            return false;
+        }
+
+        logger.warn("Inventory summary drifted: quantity {}, value {}, products {}",
+                drift.quantity(), drift.value(), drift.count());
+        driftCounter.increment();
+        writeTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            if (inventorySummaryRepository.applyDelta(0, drift.quantity(), drift.value(), drift.count(), now) == 0) {
+                inventorySummaryRepository.save(
+                        new InventorySummary(0, drift.quantity(), drift.value(), drift.count(), now));
+            }
+        });
+        return true;
+    }
+
+    static int slotFor(UUID productId) {
+        return Math.floorMod(Objects.hashCode(productId), InventorySummary.SLOTS);
+    }
+
+    private static long zeroIfNull(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+}
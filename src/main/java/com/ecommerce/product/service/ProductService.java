@@ -6,12 +6,18 @@ import com.ecommerce.product.repository.ProductRepository;
 import com.ecommerce.product.dto.ProductRequestDto;
 import com.ecommerce.product.dto.ProductResponseDto;
 import com.ecommerce.product.mapper.ProductMapper;
+import com.ecommerce.product.service.InventoryService.Contribution;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
 
@@ -20,19 +26,24 @@ public class ProductService {
     private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final InventoryService inventoryService;
 
-    public ProductService(ProductRepository productRepository, ProductMapper productMapper) {
+    public ProductService(ProductRepository productRepository, ProductMapper productMapper, InventoryService inventoryService) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.inventoryService = inventoryService;
     }
 
+    @Transactional
     public ProductResponseDto create(ProductRequestDto dto) {
         boolean exists = productRepository.existsByNameIgnoreCaseAndVoidedFalse(dto.getName());
         if (exists) {
             logger.error("Product with name {} already exists", dto.getName());
             throw new ProductException("A non-voided product with this name already exists: " + dto.getName());
         }
-        return productMapper.toDto(productRepository.save(productMapper.toEntity(dto)));
+        Product product = productRepository.save(productMapper.toEntity(dto));
+        inventoryService.recordChange(product.getId(), Contribution.NONE, Contribution.of(product));
+        return productMapper.toDto(product);
     }
 
     public ProductResponseDto get(UUID id) {
@@ -40,8 +51,13 @@ public class ProductService {
         return productMapper.toDto(product);
     }
 
+    public List<ProductResponseDto> getAll(Collection<UUID> ids) {
+        return productRepository.findAllById(ids).stream().map(productMapper::toDto).toList();
+    }
+
+    @Transactional
     public ProductResponseDto update(UUID id, ProductRequestDto dto) {
-        Product product = productRepository.findById(id)
+        Product product = productRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new NoSuchElementException("Product does not exist"));
 
         boolean nameConflict = productRepository.existsByNameIgnoreCaseAndVoidedFalse(dto.getName());
@@ -50,8 +66,11 @@ public class ProductService {
             throw new ProductException("A non-voided product with this name already exists: " + dto.getName());
         }
 
+        Contribution before = Contribution.of(product);
         productMapper.updateFromDTO(dto, product);
-        return productMapper.toDto(productRepository.save(product));
+        Product saved = productRepository.save(product);
+        inventoryService.recordChange(id, before, Contribution.of(saved));
+        return productMapper.toDto(saved);
     }
 
     public Page<ProductResponseDto> getProducts(String name, Pageable pageable) {
@@ -62,15 +81,33 @@ public class ProductService {
         return products.map(productMapper::toDto);
     }
 
+    /**
+     * Keyset pagination for streaming the catalog: returns up to {@code limit} products ordered by id
+     * after {@code lastId}, without the count query and offset scan of {@link #getProducts}.
+     */
+    public Slice<ProductResponseDto> getProductsAfter(String name, UUID lastId, int limit) {
+        Pageable pageable = PageRequest.ofSize(limit);
+        Slice<Product> products = (name == null || name.trim().isEmpty())
+                ? productRepository.findByIdGreaterThanOrderByIdAsc(lastId, pageable)
+                : productRepository.findByNameContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(name, lastId, pageable);
+
+        return products.map(productMapper::toDto);
+    }
+
+    @Transactional
     public void delete(UUID id) {
-        Product product = productRepository.findById(id)
+        Product product = productRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new NoSuchElementException("Product does not exist"));
+        Contribution before = Contribution.of(product);
         product.setVoided(true);
         productRepository.save(product);
+        inventoryService.recordChange(id, before, Contribution.NONE);
     }
 
+    @Transactional
     public ProductResponseDto dispense(UUID id, int quantity) {
-        Product product = productRepository.findById(id)
+        requirePositive(quantity);
+        Product product = productRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new NoSuchElementException("Product not found"));
 
         if (product.getQuantity() < quantity) {
@@ -78,15 +115,30 @@ public class ProductService {
             throw new ProductException("Not enough inventory");
         }
 
+        Contribution before = Contribution.of(product);
         product.setQuantity(product.getQuantity() - quantity);
-        return productMapper.toDto(productRepository.save(product));
+        Product saved = productRepository.save(product);
+        inventoryService.recordChange(id, before, Contribution.of(saved));
+        return productMapper.toDto(saved);
     }
 
+    @Transactional
     public ProductResponseDto restock(UUID id, int quantity) {
-        Product product = productRepository.findById(id)
+        requirePositive(quantity);
+        Product product = productRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new NoSuchElementException("Product not found"));
 
+        Contribution before = Contribution.of(product);
         product.setQuantity(product.getQuantity() + quantity);
-        return productMapper.toDto(productRepository.save(product));
+        Product saved = productRepository.save(product);
+        inventoryService.recordChange(id, before, Contribution.of(saved));
+        return productMapper.toDto(saved);
+    }
+
+    private static void requirePositive(int quantity) {
+        if (quantity <= 0) {
+            logger.error("Invalid inventory quantity {}", quantity);
+            throw new ProductException("Quantity must be greater than zero");
+        }
     }
 }
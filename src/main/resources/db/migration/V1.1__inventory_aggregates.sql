@@ -0,0 +1,26 @@
+-- Serves low-stock lookups as a range scan over active products instead of a full table scan
+CREATE INDEX idx_product_active_quantity ON product (quantity) WHERE voided = false;
+
+-- Running inventory totals over non-voided products, maintained by ProductService. Totals are
+-- striped across slots (hash of product id modulo slot count) so writes to unrelated products
+-- rarely contend on the same row; readers sum all slots.
+CREATE TABLE inventory_summary
+(
+    slot           INTEGER PRIMARY KEY,
+    total_quantity BIGINT    NOT NULL DEFAULT 0,
+    total_value    NUMERIC   NOT NULL DEFAULT 0,
+    product_count  BIGINT    NOT NULL DEFAULT 0,
+    updated_at     TIMESTAMP NOT NULL DEFAULT now()
+);
+
+INSERT INTO inventory_summary (slot)
+SELECT generate_series(0, 15);
+
+UPDATE inventory_summary
+SET total_quantity = totals.quantity,
+    total_value    = totals.value,
+    product_count  = totals.count
+FROM (SELECT COALESCE(SUM(quantity), 0) AS quantity, COALESCE(SUM(quantity * price), 0) AS value, COUNT(*) AS count
+      FROM product
+      WHERE voided = false) totals
+WHERE slot = 0;
@@ -1,8 +1,13 @@
 package com.ecommerce.product.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ecommerce.product.dto.InventorySummaryDto;
 import com.ecommerce.product.dto.ProductRequestDto;
 import com.ecommerce.product.dto.ProductResponseDto;
+import com.ecommerce.product.model.InventorySummary;
+import com.ecommerce.product.repository.InventorySummaryRepository;
+import com.ecommerce.product.service.InventoryService;
+import com.ecommerce.product.service.ProductService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -11,14 +16,23 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest
+@SpringBootTest(properties = "product.grpc.port=0")
 @AutoConfigureMockMvc
 public class ProductControllerTests {
     @Autowired
@@ -27,6 +41,15 @@ public class ProductControllerTests {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private InventorySummaryRepository inventorySummaryRepository;
+
     @Test
     void whenCreateProductThenSuccess() throws Exception {
         ProductRequestDto request = new ProductRequestDto("Samsung Galaxy S1", 10, BigDecimal.valueOf(10000));
@@ -130,4 +153,128 @@ public class ProductControllerTests {
                 .andExpect(jsonPath("$.id").value(productId.toString()))
                 .andExpect(jsonPath("$.voided").value("true"));
     }
+
+    @Test
+    void whenGetLowStockThenReturnProductsBelowThreshold() throws Exception {
+        ProductRequestDto request = new ProductRequestDto("Samsung Galaxy S6", 1, BigDecimal.valueOf(14000));
+
+        mockMvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/products/low-stock")
+                        .param("threshold", "2")
+                        .param("size", "1000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[?(@.name == 'Samsung Galaxy S6')]").exists());
+
+        mockMvc.perform(get("/products/inventory-summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalValue").exists())
+                .andExpect(jsonPath("$.productCount").exists());
+    }
+
+    @Test
+    void whenProductsChangeThenInventorySummaryTracksQuantityTimesPrice() throws Exception {
+        inventoryService.reconcile();
+        InventorySummaryDto initial = getInventorySummary();
+
+        ProductRequestDto request = new ProductRequestDto("Samsung Galaxy S7", 4, new BigDecimal("250.50"));
+        String response = mockMvc.perform(post("/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID productId = objectMapper.readValue(response, ProductResponseDto.class).getId();
+        assertSummary(initial, 4, new BigDecimal("1002.00"), 1, getInventorySummary());
+
+        mockMvc.perform(post("/products/" + productId + "/dispense")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 1}"))
+                .andExpect(status().isOk());
+        assertSummary(initial, 3, new BigDecimal("751.50"), 1, getInventorySummary());
+
+        mockMvc.perform(post("/products/" + productId + "/restock")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 2}"))
+                .andExpect(status().isOk());
+        assertSummary(initial, 5, new BigDecimal("1252.50"), 1, getInventorySummary());
+
+        mockMvc.perform(delete("/products/" + productId))
+                .andExpect(status().isNoContent());
+        assertSummary(initial, 0, BigDecimal.ZERO, 0, getInventorySummary());
+
+        assertFalse(inventoryService.reconcile());
+    }
+
+    @Test
+    void whenConcurrentDispensesThenSummaryMatchesStoredQuantity() throws Exception {
+        inventoryService.reconcile();
+        ProductResponseDto created = productService.create(
+                new ProductRequestDto("Samsung Galaxy S8", 20, BigDecimal.valueOf(100)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(executor.submit(() -> productService.dispense(created.getId(), 1)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(0, productService.get(created.getId()).getQuantity());
+        assertFalse(inventoryService.reconcile());
+        productService.delete(created.getId());
+    }
+
+    @Test
+    void whenSummaryDriftsThenReconcileRepairsIt() throws Exception {
+        inventoryService.reconcile();
+        InventorySummaryDto initial = getInventorySummary();
+
+        InventorySummary slot = inventorySummaryRepository.findById(5).orElseThrow();
+        slot.setTotalQuantity(slot.getTotalQuantity() + 7);
+        slot.setTotalValue(slot.getTotalValue().add(BigDecimal.valueOf(70)));
+        inventorySummaryRepository.save(slot);
+        assertSummary(initial, 7, BigDecimal.valueOf(70), 0, getInventorySummary());
+
+        assertTrue(inventoryService.reconcile());
+        assertSummary(initial, 0, BigDecimal.ZERO, 0, getInventorySummary());
+        assertFalse(inventoryService.reconcile());
+    }
+
+    @Test
+    void whenDispensingNegativeQuantityThenBadRequest() throws Exception {
+        ProductResponseDto created = productService.create(
+                new ProductRequestDto("Samsung Galaxy S9", 5, BigDecimal.valueOf(100)));
+
+        mockMvc.perform(post("/products/" + created.getId() + "/dispense")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": -5}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(5, productService.get(created.getId()).getQuantity());
+        productService.delete(created.getId());
+    }
+
+    private InventorySummaryDto getInventorySummary() throws Exception {
+        String response = mockMvc.perform(get("/products/inventory-summary"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(response, InventorySummaryDto.class);
+    }
+
+    private static void assertSummary(InventorySummaryDto initial, long quantity, BigDecimal value, long count,
+                                      InventorySummaryDto actual) {
+        assertEquals(initial.getTotalQuantity() + quantity, actual.getTotalQuantity());
+        assertEquals(0, initial.getTotalValue().add(value).compareTo(actual.getTotalValue()),
+                "expected value " + initial.getTotalValue().add(value) + " but was " + actual.getTotalValue());
+        assertEquals(initial.getProductCount() + count, actual.getProductCount());
+    }
 }
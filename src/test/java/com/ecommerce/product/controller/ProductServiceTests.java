@@ -6,12 +6,15 @@ import com.ecommerce.product.exception.ProductException;
 import com.ecommerce.product.mapper.ProductMapper;
 import com.ecommerce.product.model.Product;
 import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.service.InventoryService;
+import com.ecommerce.product.service.InventoryService.Contribution;
 import com.ecommerce.product.service.ProductService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.data.domain.*;
 
+import java.math.BigDecimal;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +27,9 @@ public class ProductServiceTests {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private InventoryService inventoryService;
+
     @InjectMocks
     private ProductService productService;
 
@@ -41,6 +47,7 @@ public class ProductServiceTests {
         product.setId(productId);
         product.setName("Test Product");
         product.setQuantity(10);
+        product.setPrice(BigDecimal.valueOf(100));
         product.setVoided(false);
 
         requestDto = new ProductRequestDto();
@@ -86,7 +93,7 @@ public class ProductServiceTests {
 
     @Test
     void update_existingProduct_shouldApplyChanges() {
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.findByIdForUpdate(productId)).thenReturn(Optional.of(product));
         doNothing().when(productMapper).updateFromDTO(requestDto, product);
         when(productRepository.save(product)).thenReturn(product);
         when(productMapper.toDto(product)).thenReturn(responseDto);
@@ -100,7 +107,7 @@ public class ProductServiceTests {
 
     @Test
     void update_nonexistentProduct_shouldThrow() {
-        when(productRepository.findById(productId)).thenReturn(Optional.empty());
+        when(productRepository.findByIdForUpdate(productId)).thenReturn(Optional.empty());
 
         assertThrows(NoSuchElementException.class, () -> productService.update(productId, requestDto));
     }
@@ -135,25 +142,26 @@ public class ProductServiceTests {
 
     @Test
     void delete_existingProduct_shouldMarkAsVoided() {
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.findByIdForUpdate(productId)).thenReturn(Optional.of(product));
         when(productRepository.save(product)).thenReturn(product);
 
         productService.delete(productId);
 
         assertTrue(product.isVoided());
         verify(productRepository).save(product);
+        verify(inventoryService).recordChange(productId, new Contribution(10, BigDecimal.valueOf(1000), 1), Contribution.NONE);
     }
 
     @Test
     void delete_nonexistentProduct_shouldThrow() {
-        when(productRepository.findById(productId)).thenReturn(Optional.empty());
+        when(productRepository.findByIdForUpdate(productId)).thenReturn(Optional.empty());
 
         assertThrows(NoSuchElementException.class, () -> productService.delete(productId));
     }
 
     @Test
     void dispense_enoughStock_shouldReduceQuantity() {
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.findByIdForUpdate(productId)).thenReturn(Optional.of(product));
         when(productRepository.save(product)).thenReturn(product);
         when(productMapper.toDto(product)).thenReturn(responseDto);
 
@@ -161,18 +169,34 @@ public class ProductServiceTests {
 
         assertEquals(5, product.getQuantity());
         assertEquals(responseDto, result);
+        verify(inventoryService).recordChange(productId, new Contribution(10, BigDecimal.valueOf(1000), 1),
+                new Contribution(5, BigDecimal.valueOf(500), 1));
     }
 
     @Test
     void dispense_notEnoughStock_shouldThrow() {
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.findByIdForUpdate(productId)).thenReturn(Optional.of(product));
 
         assertThrows(ProductException.class, () -> productService.dispense(productId, 20));
+        verifyNoInteractions(inventoryService);
+    }
+
+    @Test
+    void dispense_nonPositiveQuantity_shouldThrow() {
+        assertThrows(ProductException.class, () -> productService.dispense(productId, -5));
+        assertThrows(ProductException.class, () -> productService.dispense(productId, 0));
+        verifyNoInteractions(productRepository, inventoryService);
+    }
+
+    @Test
+    void restock_nonPositiveQuantity_shouldThrow() {
+        assertThrows(ProductException.class, () -> productService.restock(productId, -5));
+        verifyNoInteractions(productRepository, inventoryService);
     }
 
     @Test
     void restock_shouldIncreaseQuantity() {
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.findByIdForUpdate(productId)).thenReturn(Optional.of(product));
         when(productRepository.save(product)).thenReturn(product);
         when(productMapper.toDto(product)).thenReturn(responseDto);
 
@@ -180,5 +204,7 @@ public class ProductServiceTests {
 
         assertEquals(15, product.getQuantity());
         assertEquals(responseDto, result);
+        verify(inventoryService).recordChange(productId, new Contribution(10, BigDecimal.valueOf(1000), 1),
+                new Contribution(15, BigDecimal.valueOf(1500), 1));
     }
 }
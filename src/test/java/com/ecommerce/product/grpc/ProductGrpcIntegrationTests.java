@@ -0,0 +1,136 @@
+package com.ecommerce.product.grpc;
+
+import com.ecommerce.product.config.GrpcServerLifecycle;
+import com.ecommerce.product.dto.ProductRequestDto;
+import com.ecommerce.product.dto.ProductResponseDto;
+import com.ecommerce.product.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Exercises the gRPC API over a real Netty channel against the database, next to the REST API on
+ * its random port.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "product.grpc.port=0")
+public class ProductGrpcIntegrationTests {
+    private static final Logger logger = LoggerFactory.getLogger(ProductGrpcIntegrationTests.class);
+
+    @LocalServerPort
+    private int httpPort;
+
+    @Autowired
+    private GrpcServerLifecycle grpcServer;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ManagedChannel channel;
+    private ProductCatalogGrpc.ProductCatalogBlockingStub stub;
+
+    @BeforeEach
+    void setUp() {
+        channel = NettyChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+        stub = ProductCatalogGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+    }
+
+    @Test
+    void whenListingProductsThenKeysetStreamReturnsEveryProductOnce() {
+        Set<UUID> created = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(productService.create(new ProductRequestDto("Keyset Phone " + i, 1, BigDecimal.ONE)).getId());
+        }
+
+        List<UUID> streamed = new ArrayList<>();
+        stub.listProducts(ListProductsRequest.newBuilder().setName("Keyset Phone").setPageSize(2).build())
+                .forEachRemaining(product -> streamed.add(UUID.fromString(product.getId())));
+
+        assertEquals(created, new HashSet<>(streamed));
+        assertEquals(created.size(), streamed.size());
+        created.forEach(productService::delete);
+    }
+
+    /**
+     * Compares a single product lookup over REST/JSON (JDK HTTP client) and gRPC/Protobuf (Netty
+     * channel), each over a loopback socket to the running application and the database. Client and
+     * server share the JVM, so the CPU figure is process CPU per request for both sides together. Run
+     * with {@code mvn test -Dtest=ProductGrpcIntegrationTests -Dbenchmark=true}.
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_getProduct_jsonVersusProtobuf() throws Exception {
+        ProductResponseDto product = productService.create(
+                new ProductRequestDto("Benchmark Phone", 10, new BigDecimal("10000.50")));
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest httpRequest = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + httpPort + "/products/" + product.getId())).GET().build();
+        GetProductRequest grpcRequest = GetProductRequest.newBuilder().setId(product.getId().toString()).build();
+
+        Call json = () -> {
+            byte[] body = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+            objectMapper.readValue(body, ProductResponseDto.class);
+        };
+        Call grpc = () -> stub.getProduct(grpcRequest);
+
+        logger.info("JSON payload {} bytes, protobuf payload {} bytes",
+                httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray()).body().length,
+                stub.getProduct(grpcRequest).getSerializedSize());
+        measure("json", json);
+        measure("grpc", grpc);
+        productService.delete(product.getId());
+    }
+
+    private interface Call {
+        void run() throws Exception;
+    }
+
+    private static void measure(String label, Call call) throws Exception {
+        int warmup = 2_000;
+        int iterations = 10_000;
+        for (int i = 0; i < warmup; i++) {
+            call.run();
+        }
+
+        com.sun.management.OperatingSystemMXBean os =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        long[] latencies = new long[iterations];
+        long cpuStart = os.getProcessCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            call.run();
+            latencies[i] = System.nanoTime() - start;
+        }
+        long cpuPerRequest = (os.getProcessCpuTime() - cpuStart) / iterations;
+
+        Arrays.sort(latencies);
+        logger.info("{}: process cpu/request {} us, p50 {} us, p99 {} us", label, cpuPerRequest / 1_000,
+                latencies[iterations / 2] / 1_000, latencies[(int) (iterations * 0.99)] / 1_000);
+    }
+}
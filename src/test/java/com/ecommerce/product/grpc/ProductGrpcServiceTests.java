@@ -0,0 +1,280 @@
+package com.ecommerce.product.grpc;
+
+import com.ecommerce.product.dto.ProductResponseDto;
+import com.ecommerce.product.exception.ProductException;
+import com.ecommerce.product.limiter.AdaptiveConcurrencyLimiter;
+import com.ecommerce.product.limiter.ConcurrencyLimiters;
+import com.ecommerce.product.limiter.ConcurrencyLimiters.Budget;
+import com.ecommerce.product.limiter.LimiterProperties;
+import com.ecommerce.product.mapper.GrpcProductMapper;
+import com.ecommerce.product.service.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class ProductGrpcServiceTests {
+    @Mock
+    private ProductService productService;
+
+    private final GrpcProductMapper grpcProductMapper = new GrpcProductMapper();
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimiters limiters;
+    private Server server;
+    private ManagedChannel channel;
+    private ProductCatalogGrpc.ProductCatalogBlockingStub stub;
+    private ProductResponseDto responseDto;
+    private UUID productId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        LimiterProperties properties = new LimiterProperties();
+        properties.getRead().setInitialLimit(2);
+        properties.getRead().setMinLimit(1);
+        meterRegistry = new SimpleMeterRegistry();
+        limiters = new ConcurrencyLimiters(properties, meterRegistry);
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(new ProductGrpcService(productService, grpcProductMapper),
+                        new GrpcConcurrencyLimitInterceptor(limiters, properties.getRetryAfter())))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+        stub = ProductCatalogGrpc.newBlockingStub(channel);
+
+        productId = UUID.randomUUID();
+        responseDto = product(productId, "Samsung Galaxy S24", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void getProduct_existingId_shouldReturnProduct() {
+        when(productService.get(productId)).thenReturn(responseDto);
+
+        Product result = stub.getProduct(GetProductRequest.newBuilder().setId(productId.toString()).build());
+
+        assertEquals(productId.toString(), result.getId());
+        assertEquals("Samsung Galaxy S24", result.getName());
+        assertEquals(10, result.getQuantity());
+        assertEquals(0, new BigDecimal("10000.50").compareTo(grpcProductMapper.fromProto(result.getPrice())));
+    }
+
+    @Test
+    void getProduct_nonexistentId_shouldReturnNotFound() {
+        when(productService.get(productId)).thenThrow(new NoSuchElementException("Product does not exist"));
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub.getProduct(GetProductRequest.newBuilder().setId(productId.toString()).build()));
+        assertEquals(Status.Code.NOT_FOUND, ex.getStatus().getCode());
+    }
+
+    @Test
+    void getProduct_invalidId_shouldReturnInvalidArgument() {
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub.getProduct(GetProductRequest.newBuilder().setId("not-a-uuid").build()));
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    void batchGetProducts_shouldReturnFoundAndMissingIds() {
+        UUID missingId = UUID.randomUUID();
+        when(productService.getAll(anyCollection())).thenReturn(List.of(responseDto));
+
+        BatchGetProductsResponse result = stub.batchGetProducts(BatchGetProductsRequest.newBuilder()
+                .addIds(productId.toString())
+                .addIds(missingId.toString())
+                .build());
+
+        assertEquals(1, result.getProductsCount());
+        assertEquals(productId.toString(), result.getProducts(0).getId());
+        assertEquals(List.of(missingId.toString()), result.getMissingIdsList());
+    }
+
+    @Test
+    void listProducts_shouldStreamAllPagesByKeyset() {
+        ProductResponseDto second = product(UUID.randomUUID(), "Samsung Galaxy S25", 5);
+        when(productService.getProductsAfter(isNull(), any(UUID.class), eq(1))).thenAnswer(invocation -> {
+            UUID lastId = invocation.getArgument(1);
+            if (lastId.equals(new UUID(0, 0))) {
+                return new SliceImpl<>(List.of(responseDto), PageRequest.ofSize(1), true);
+            }
+            return new SliceImpl<>(List.of(second), PageRequest.ofSize(1), false);
+        });
+
+        List<Product> result = new ArrayList<>();
+        stub.listProducts(ListProductsRequest.newBuilder().setPageSize(1).build()).forEachRemaining(result::add);
+
+        assertEquals(2, result.size());
+        assertEquals("Samsung Galaxy S25", result.get(1).getName());
+        verify(productService).getProductsAfter(null, productId, 1);
+        verify(productService, never()).getProducts(any(), any());
+    }
+
+    @Test
+    void listProducts_slowConsumer_shouldStopFetchingPages() throws Exception {
+        AtomicInteger pages = new AtomicInteger();
+        when(productService.getProductsAfter(isNull(), any(UUID.class), eq(1))).thenAnswer(invocation ->
+                new SliceImpl<>(List.of(product(UUID.randomUUID(), "Samsung Galaxy", 1)), PageRequest.ofSize(1),
+                        pages.incrementAndGet() < 50));
+
+        List<Product> received = new ArrayList<>();
+        AtomicReference<ClientCallStreamObserver<ListProductsRequest>> call = new AtomicReference<>();
+        ProductCatalogGrpc.newStub(channel).listProducts(ListProductsRequest.newBuilder().setPageSize(1).build(),
+                new ClientResponseObserver<ListProductsRequest, Product>() {
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<ListProductsRequest> requestStream) {
+                        call.set(requestStream);
+                        requestStream.disableAutoRequestWithInitial(2);
+                    }
+
+                    @Override
+                    public void onNext(Product value) {
+                        received.add(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+
+        assertEquals(2, received.size());
+        verify(productService, atMost(3)).getProductsAfter(any(), any(), anyInt());
+
+        call.get().cancel("done", null);
+    }
+
+    @Test
+    void dispense_nonPositiveQuantity_shouldReturnInvalidArgument() {
+        when(productService.dispense(productId, -5)).thenThrow(new ProductException("Quantity must be greater than zero"));
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class, () -> stub.dispense(
+                InventoryRequest.newBuilder().setId(productId.toString()).setQuantity(-5).build()));
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+    }
+
+    @Test
+    void decimal_beyondLongRange_shouldRoundTrip() {
+        BigDecimal price = new BigDecimal("-123456789012345678901234567890.123456789");
+
+        assertEquals(price, grpcProductMapper.fromProto(grpcProductMapper.toProto(price)));
+        assertEquals(BigDecimal.ZERO, grpcProductMapper.fromProto(Decimal.getDefaultInstance()));
+    }
+
+    @Test
+    void dispense_notEnoughStock_shouldReturnInvalidArgument() {
+        when(productService.dispense(productId, 20)).thenThrow(new ProductException("Not enough inventory"));
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class, () -> stub.dispense(
+                InventoryRequest.newBuilder().setId(productId.toString()).setQuantity(20).build()));
+        assertEquals(Status.Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+        assertEquals("Not enough inventory", ex.getStatus().getDescription());
+    }
+
+    @Test
+    void restock_shouldReturnUpdatedProduct() {
+        when(productService.restock(productId, 5)).thenReturn(product(productId, "Samsung Galaxy S24", 15));
+
+        Product result = stub.restock(InventoryRequest.newBuilder().setId(productId.toString()).setQuantity(5).build());
+
+        assertEquals(15, result.getQuantity());
+    }
+
+    @Test
+    void getProduct_readBudgetExhausted_shouldReturnUnavailableWithPushback() {
+        AdaptiveConcurrencyLimiter read = limiters.get(Budget.READ);
+        while (read.tryAcquire()) {
+            // hold every read permit, as slow in-flight lookups would
+        }
+
+        StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+                () -> stub.getProduct(GetProductRequest.newBuilder().setId(productId.toString()).build()));
+        assertEquals(Status.Code.UNAVAILABLE, ex.getStatus().getCode());
+        assertEquals("1000", ex.getTrailers().get(GrpcConcurrencyLimitInterceptor.RETRY_PUSHBACK_KEY));
+        assertEquals(1.0, meterRegistry.get("product.limiter.rejected").tag("budget", "read").tag("reason", "limit").counter().count());
+        verifyNoInteractions(productService);
+
+        when(productService.restock(productId, 5)).thenReturn(product(productId, "Samsung Galaxy S24", 15));
+        assertEquals(15, stub.restock(InventoryRequest.newBuilder().setId(productId.toString()).setQuantity(5).build())
+                .getQuantity());
+    }
+
+    @Test
+    void limiter_completedCalls_shouldReleasePermits() {
+        when(productService.get(productId)).thenReturn(responseDto);
+        when(productService.getProductsAfter(isNull(), any(UUID.class), anyInt()))
+                .thenReturn(new SliceImpl<>(List.of(responseDto), PageRequest.ofSize(1), false));
+        when(productService.dispense(productId, -5)).thenThrow(new ProductException("Quantity must be greater than zero"));
+
+        stub.getProduct(GetProductRequest.newBuilder().setId(productId.toString()).build());
+        stub.listProducts(ListProductsRequest.getDefaultInstance()).forEachRemaining(product -> { });
+        assertThrows(StatusRuntimeException.class, () -> stub.dispense(
+                InventoryRequest.newBuilder().setId(productId.toString()).setQuantity(-5).build()));
+
+        assertEquals(0, limiters.get(Budget.READ).getInflight());
+        assertEquals(0, limiters.get(Budget.INVENTORY).getInflight());
+    }
+
+    @Test
+    void toProto_shouldResolveTimestampsInServiceTimeZone() {
+        Product result = grpcProductMapper.toProto(responseDto);
+
+        Instant createdAt = responseDto.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        assertEquals(createdAt.getEpochSecond(), result.getCreatedAt().getSeconds());
+        assertEquals(createdAt.getNano(), result.getCreatedAt().getNanos());
+        assertTrue(result.hasUpdatedAt());
+    }
+
+    @Test
+    void protobufPayload_shouldBeSmallerThanJson() throws Exception {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        int jsonSize = objectMapper.writeValueAsBytes(responseDto).length;
+        int protobufSize = grpcProductMapper.toProto(responseDto).getSerializedSize();
+
+        assertTrue(protobufSize * 2 < jsonSize, "protobuf " + protobufSize + " bytes, json " + jsonSize + " bytes");
+    }
+
+    private static ProductResponseDto product(UUID id, String name, int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ProductResponseDto(id, name, quantity, new BigDecimal("10000.50"), false, now, now);
+    }
+}
@@ -0,0 +1,279 @@
+package com.ecommerce.product.limiter;
+
+import com.ecommerce.product.controller.ProductController;
+import com.ecommerce.product.dto.ProductResponseDto;
+import com.ecommerce.product.exception.ConcurrencyLimitException;
+import com.ecommerce.product.exception.CustomExceptionHandler;
+import com.ecommerce.product.service.InventoryService;
+import com.ecommerce.product.service.ProductService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class ConcurrencyLimitInterceptorTests {
+    private LimiterProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LimiterProperties();
+        properties.getRead().setInitialLimit(2);
+        properties.getRead().setMinLimit(1);
+        properties.getInventory().setInitialLimit(2);
+        properties.getInventory().setMinLimit(1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void limiter_slowResponses_shouldBackOff() {
+        properties.getRead().setInitialLimit(20);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", properties.getRead());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(Duration.ofSeconds(1).toNanos(), false);
+        }
+
+        assertTrue(limiter.getLimit() < 20);
+        assertEquals(0, limiter.getInflight());
+    }
+
+    @Test
+    void limiter_fastResponsesUnderLoad_shouldGrow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("read", properties.getRead());
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        limiter.release(Duration.ofMillis(5).toNanos(), false);
+
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    void preHandle_readBudgetExhausted_shouldStillAdmitInventory() {
+        ConcurrencyLimitInterceptor interceptor = interceptor();
+
+        interceptor.preHandle(request("GET", "/products"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(request("GET", "/products"), new MockHttpServletResponse(), null);
+
+        ConcurrencyLimitException ex = assertThrows(ConcurrencyLimitException.class,
+                () -> interceptor.preHandle(request("GET", "/products"), new MockHttpServletResponse(), null));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatus());
+        assertTrue(interceptor.preHandle(request("POST", "/products/" + UUID() + "/dispense"), new MockHttpServletResponse(), null));
+        assertEquals(1.0, meterRegistry.get("product.limiter.rejected").tag("budget", "read").tag("reason", "limit").counter().count());
+    }
+
+    @Test
+    void preHandle_clientOverLimit_shouldReturnTooManyRequestsForThatBudgetOnly() {
+        properties.setPerClientLimit(1);
+        ConcurrencyLimitInterceptor interceptor = interceptor();
+
+        MockHttpServletRequest read = request("GET", "/products");
+        read.addHeader("X-Client-Id", "cart");
+        interceptor.preHandle(read, new MockHttpServletResponse(), null);
+
+        MockHttpServletRequest secondRead = request("GET", "/products");
+        secondRead.addHeader("X-Client-Id", "cart");
+        ConcurrencyLimitException ex = assertThrows(ConcurrencyLimitException.class,
+                () -> interceptor.preHandle(secondRead, new MockHttpServletResponse(), null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatus());
+
+        MockHttpServletRequest restock = request("POST", "/products/" + UUID() + "/restock");
+        restock.addHeader("X-Client-Id", "cart");
+        assertTrue(interceptor.preHandle(restock, new MockHttpServletResponse(), null));
+
+        interceptor.afterCompletion(read, new MockHttpServletResponse(), null, null);
+        assertTrue(interceptor.preHandle(secondRead, new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void preHandle_withoutClientId_shouldNotApplyClientCap() {
+        properties.setPerClientLimit(1);
+        ConcurrencyLimitInterceptor interceptor = interceptor();
+
+        assertTrue(interceptor.preHandle(request("GET", "/products"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(request("GET", "/products"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void preHandle_clientCapDisabledByDefault_shouldIgnoreClientId() {
+        ConcurrencyLimitInterceptor interceptor = interceptor();
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequest request = request("GET", "/products");
+            request.addHeader("X-Client-Id", "cart");
+            assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        }
+    }
+
+    @Test
+    void request_budgetExhausted_shouldReturnServiceUnavailableWithRetryAfter() throws Exception {
+        ConcurrencyLimitInterceptor interceptor = interceptor();
+        MockMvc mockMvc = mockMvc(interceptor);
+
+        interceptor.preHandle(request("GET", "/products"), new MockHttpServletResponse(), null);
+        interceptor.preHandle(request("GET", "/products"), new MockHttpServletResponse(), null);
+
+        mockMvc.perform(get("/products/" + UUID()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    @Test
+    void request_clientOverLimit_shouldReturnTooManyRequestsWithRetryAfter() throws Exception {
+        properties.setPerClientLimit(1);
+        ConcurrencyLimitInterceptor interceptor = interceptor();
+        MockMvc mockMvc = mockMvc(interceptor);
+
+        MockHttpServletRequest held = request("GET", "/products");
+        held.addHeader("X-Client-Id", "cart");
+        interceptor.preHandle(held, new MockHttpServletResponse(), null);
+
+        mockMvc.perform(get("/products/" + UUID()).header("X-Client-Id", "cart"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        mockMvc.perform(post("/products/" + UUID() + "/restock")
+                        .header("X-Client-Id", "cart")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 5}"))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * Deterministic simulation, not a live database test: 32 closed-loop clients issue reads against a
+     * modelled connection pool of four connections where each query holds a connection for 20ms and
+     * excess requests queue. A virtual clock drives both the model and the limiter, so the outcome does
+     * not depend on scheduling or machine speed. Goodput counts requests completing within a 60ms SLO.
+     * This only exercises the limiter's control loop; {@link LoadSheddingChaosTests} covers the service
+     * against a slowed-down database.
+     */
+    @Test
+    void simulatedSlowDatabase_shouldShedLoadAndKeepGoodput() {
+        properties.getRead().setInitialLimit(32);
+        properties.getRead().setMinLimit(1);
+        properties.getRead().setLatencyThreshold(Duration.ofMillis(60));
+        AtomicLong clock = new AtomicLong();
+        ConcurrencyLimiters limiters = new ConcurrencyLimiters(properties, meterRegistry);
+        ConcurrencyLimitInterceptor limited = new ConcurrencyLimitInterceptor(properties, limiters, meterRegistry, clock::get);
+
+        LimiterProperties unlimitedProperties = new LimiterProperties();
+        unlimitedProperties.getRead().setInitialLimit(1000);
+        unlimitedProperties.getRead().setMinLimit(1000);
+        unlimitedProperties.getRead().setMaxLimit(1000);
+        AtomicLong unlimitedClock = new AtomicLong();
+        SimpleMeterRegistry unlimitedRegistry = new SimpleMeterRegistry();
+        ConcurrencyLimitInterceptor unlimited = new ConcurrencyLimitInterceptor(unlimitedProperties,
+                new ConcurrencyLimiters(unlimitedProperties, unlimitedRegistry), unlimitedRegistry, unlimitedClock::get);
+
+        int unlimitedGoodput = simulateSlowDatabase(unlimited, unlimitedClock);
+        int limitedGoodput = simulateSlowDatabase(limited, clock);
+
+        assertTrue(limiters.get(ConcurrencyLimiters.Budget.READ).getLimit() < 32);
+        assertTrue(meterRegistry.get("product.limiter.rejected").tag("budget", "read").tag("reason", "limit").counter().count() > 0);
+        // Without shedding only the first three waves finish before the queue pushes every request past the SLO
+        assertEquals(12, unlimitedGoodput, "goodput without limiter " + unlimitedGoodput);
+        // The pool can serve at most 4 queries per 20ms, i.e. 400 over the 2s simulation
+        assertTrue(limitedGoodput >= 150, "goodput with limiter " + limitedGoodput);
+    }
+
+    private record Event(long at, boolean completion, long seq, MockHttpServletRequest request,
+                         MockHttpServletResponse response, long startedAt) {
+    }
+
+    private static int simulateSlowDatabase(ConcurrencyLimitInterceptor interceptor, AtomicLong clock) {
+        long queryNanos = Duration.ofMillis(20).toNanos();
+        long retryNanos = Duration.ofMillis(5).toNanos();
+        long slo = Duration.ofMillis(60).toNanos();
+        long horizon = Duration.ofSeconds(2).toNanos();
+        long[] connectionFreeAt = new long[4];
+        long[] seq = {0};
+        int goodput = 0;
+
+        PriorityQueue<Event> events = new PriorityQueue<>(Comparator.comparingLong(Event::at)
+                .thenComparing(Event::completion, Comparator.reverseOrder())
+                .thenComparingLong(Event::seq));
+        for (int i = 0; i < 32; i++) {
+            events.add(new Event(0, false, seq[0]++, null, null, 0));
+        }
+
+        while (!events.isEmpty() && events.peek().at() < horizon) {
+            Event event = events.poll();
+            clock.set(event.at());
+
+            if (event.completion()) {
+                interceptor.afterCompletion(event.request(), event.response(), null, null);
+                if (event.at() - event.startedAt() <= slo) {
+                    goodput++;
+                }
+                events.add(new Event(event.at(), false, seq[0]++, null, null, 0));
+                continue;
+            }
+
+            MockHttpServletRequest request = request("GET", "/products");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            try {
+                interceptor.preHandle(request, response, null);
+            } catch (ConcurrencyLimitException e) {
+                events.add(new Event(event.at() + retryNanos, false, seq[0]++, null, null, 0));
+                continue;
+            }
+            int connection = 0;
+            for (int i = 1; i < connectionFreeAt.length; i++) {
+                if (connectionFreeAt[i] < connectionFreeAt[connection]) {
+                    connection = i;
+                }
+            }
+            long doneAt = Math.max(event.at(), connectionFreeAt[connection]) + queryNanos;
+            connectionFreeAt[connection] = doneAt;
+            events.add(new Event(doneAt, true, seq[0]++, request, response, event.at()));
+        }
+        return goodput;
+    }
+
+    private ConcurrencyLimitInterceptor interceptor() {
+        return new ConcurrencyLimitInterceptor(properties, new ConcurrencyLimiters(properties, meterRegistry), meterRegistry);
+    }
+
+    private static MockMvc mockMvc(ConcurrencyLimitInterceptor interceptor) {
+        ProductService productService = mock(ProductService.class);
+        when(productService.get(any())).thenReturn(new ProductResponseDto());
+        when(productService.restock(any(), anyInt())).thenReturn(new ProductResponseDto());
+        return MockMvcBuilders.standaloneSetup(new ProductController(productService, mock(InventoryService.class)))
+                .setControllerAdvice(new CustomExceptionHandler())
+                .addInterceptors(interceptor)
+                .build();
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+    private static String UUID() {
+        return java.util.UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,190 @@
+package com.ecommerce.product.limiter;
+
+import com.ecommerce.product.dto.ProductRequestDto;
+import com.ecommerce.product.dto.ProductResponseDto;
+import com.ecommerce.product.service.ProductService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Chaos test against the real database: every JDBC statement is delayed while the service is flooded
+ * with concurrent reads and a steady trickle of dispenses. The limiter must shed reads with 503, keep
+ * completed reads within the SLO and still let inventory movements through.
+ */
+@SpringBootTest(properties = {
+        "product.grpc.port=0",
+        "spring.jpa.show-sql=false",
+        "product.limiter.read.initial-limit=4",
+        "product.limiter.read.min-limit=1",
+        "product.limiter.read.max-limit=8",
+        "product.limiter.read.latency-threshold=250ms",
+        "product.limiter.inventory.initial-limit=8",
+        "product.limiter.inventory.latency-threshold=1s"
+})
+@AutoConfigureMockMvc
+@Import(LoadSheddingChaosTests.LatencyInjectionConfiguration.class)
+public class LoadSheddingChaosTests {
+    private static final long STATEMENT_LATENCY_MILLIS = 50;
+    private static final long RETRY_BACKOFF_MILLIS = 50;
+    private static final Duration READ_SLO = Duration.ofSeconds(1);
+    private static volatile boolean latencyEnabled;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductService productService;
+
+    @AfterEach
+    void tearDown() {
+        latencyEnabled = false;
+    }
+
+    @Test
+    void whenDatabaseSlowsDownThenReadsAreShedAndInventoryKeepsFlowing() throws Exception {
+        ProductResponseDto product = productService.create(
+                new ProductRequestDto("Chaos Phone " + UUID.randomUUID(), 1_000_000, BigDecimal.ONE));
+        latencyEnabled = true;
+        // Warm up the request path so JIT compilation does not show up as read latency
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(get("/products/" + product.getId()));
+        }
+
+        AtomicInteger readsShed = new AtomicInteger();
+        AtomicInteger dispensesOk = new AtomicInteger();
+        AtomicInteger dispensesFailed = new AtomicInteger();
+        List<Long> readLatencies = Collections.synchronizedList(new ArrayList<>());
+        long deadline = System.nanoTime() + Duration.ofSeconds(3).toNanos();
+
+        ExecutorService clients = Executors.newFixedThreadPool(27);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            futures.add(clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    int status = mockMvc.perform(get("/products/" + product.getId())).andReturn().getResponse().getStatus();
+                    if (status == 200) {
+                        readLatencies.add(System.nanoTime() - start);
+                    } else if (status == 503) {
+                        readsShed.incrementAndGet();
+                        Thread.sleep(RETRY_BACKOFF_MILLIS);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (int i = 0; i < 3; i++) {
+            futures.add(clients.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    int status = mockMvc.perform(post("/products/" + product.getId() + "/dispense")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("{\"quantity\": 1}"))
+                            .andReturn().getResponse().getStatus();
+                    (status == 200 ? dispensesOk : dispensesFailed).incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        clients.shutdown();
+        latencyEnabled = false;
+
+        List<Long> latencies = new ArrayList<>(readLatencies);
+        Collections.sort(latencies);
+        long p99 = latencies.get((int) (latencies.size() * 0.99));
+
+        assertTrue(readsShed.get() > 0, "expected reads to be shed");
+        assertTrue(p99 <= READ_SLO.toNanos(), "read p99 " + Duration.ofNanos(p99).toMillis() + "ms exceeds SLO");
+        assertTrue(dispensesOk.get() > 0, "no dispense completed");
+        assertTrue(dispensesFailed.get() * 10 <= dispensesOk.get(),
+                "dispenses ok " + dispensesOk.get() + ", failed " + dispensesFailed.get());
+
+        productService.delete(product.getId());
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class LatencyInjectionConfiguration {
+        @Bean
+        static BeanPostProcessor latencyInjectingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new LatencyInjectingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Delays every statement execution while {@link #latencyEnabled} is set, holding the pooled
+     * connection for the duration as a slow Postgres would.
+     */
+    static class LatencyInjectingDataSource extends DelegatingDataSource {
+        LatencyInjectingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return proxy(Connection.class, super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return proxy(Connection.class, super.getConnection(username, password));
+        }
+
+        private static <T> T proxy(Class<T> type, T target) {
+            InvocationHandler handler = (proxy, method, args) -> {
+                String name = method.getName();
+                if (latencyEnabled && target instanceof Statement && name.startsWith("execute")) {
+                    Thread.sleep(STATEMENT_LATENCY_MILLIS);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (result instanceof PreparedStatement statement && name.startsWith("prepare")) {
+                    return proxy(PreparedStatement.class, statement);
+                }
+                if (result instanceof Statement statement && name.equals("createStatement")) {
+                    return proxy(Statement.class, statement);
+                }
+                return result;
+            };
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.InventorySummaryDto;
+import com.ecommerce.product.mapper.ProductMapper;
+import com.ecommerce.product.model.InventorySummary;
+import com.ecommerce.product.model.Product;
+import com.ecommerce.product.repository.InventorySummaryRepository;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.service.InventoryService.Contribution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class InventoryServiceTests {
+    @Mock
+    private InventorySummaryRepository inventorySummaryRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InventoryService inventoryService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        inventoryService = new InventoryService(inventorySummaryRepository, productRepository, productMapper, meterRegistry,
+                transactionManager, 10);
+        when(inventorySummaryRepository.summarize())
+                .thenReturn(new InventorySummaryDto(15L, new BigDecimal("1500.00"), 2L, LocalDateTime.now()));
+    }
+
+    @Test
+    void contribution_voidedProduct_shouldBeNone() {
+        Product product = new Product();
+        product.setQuantity(5);
+        product.setPrice(BigDecimal.TEN);
+        product.setVoided(true);
+
+        assertEquals(Contribution.NONE, Contribution.of(product));
+    }
+
+    @Test
+    void recordChange_shouldApplyDifferenceToProductSlot() {
+        UUID productId = UUID.randomUUID();
+        when(inventorySummaryRepository.applyDelta(anyInt(), anyLong(), any(), anyLong(), any())).thenReturn(1);
+
+        inventoryService.recordChange(productId, new Contribution(10, BigDecimal.valueOf(1000), 1),
+                new Contribution(4, BigDecimal.valueOf(400), 1));
+
+        verify(inventorySummaryRepository).applyDelta(eq(InventoryService.slotFor(productId)), eq(-6L),
+                eq(BigDecimal.valueOf(-600)), eq(0L), any());
+    }
+
+    @Test
+    void slotFor_shouldSpreadProductsAcrossSlots() {
+        Set<Integer> used = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            int slot = InventoryService.slotFor(UUID.randomUUID());
+            assertTrue(slot >= 0 && slot < InventorySummary.SLOTS);
+            used.add(slot);
+        }
+
+        assertEquals(InventorySummary.SLOTS, used.size());
+    }
+
+    @Test
+    void recordChange_noDifference_shouldSkipUpdate() {
+        Contribution contribution = new Contribution(10, BigDecimal.valueOf(1000), 1);
+
+        inventoryService.recordChange(UUID.randomUUID(), contribution, contribution);
+
+        verifyNoInteractions(inventorySummaryRepository);
+    }
+
+    @Test
+    void getLowStock_withoutThreshold_shouldUseDefault() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(productRepository.findByVoidedFalseAndQuantityLessThan(10, pageable)).thenReturn(new PageImpl<>(List.of()));
+
+        inventoryService.getLowStock(null, pageable);
+
+        verify(productRepository).findByVoidedFalseAndQuantityLessThan(10, pageable);
+    }
+
+    @Test
+    void reconcile_inSync_shouldNotWrite() {
+        when(productRepository.computeInventoryTotals())
+                .thenReturn(Collections.singletonList(new Object[]{15L, new BigDecimal("1500.00"), 2L}));
+
+        assertFalse(inventoryService.reconcile());
+        verify(inventorySummaryRepository, never()).applyDelta(anyInt(), anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    void reconcile_shouldReadBothTotalsFromOneRepeatableReadSnapshot() {
+        when(productRepository.computeInventoryTotals())
+                .thenReturn(Collections.singletonList(new Object[]{15L, new BigDecimal("1500.00"), 2L}));
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+
+        inventoryService.reconcile();
+
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.ISOLATION_REPEATABLE_READ, definition.getValue().getIsolationLevel());
+        assertTrue(definition.getValue().isReadOnly());
+    }
+
+    @Test
+    void reconcile_drifted_shouldApplyDifferenceToFirstSlot() {
+        when(productRepository.computeInventoryTotals())
+                .thenReturn(Collections.singletonList(new Object[]{12L, new BigDecimal("1200.00"), 2L}));
+        when(inventorySummaryRepository.applyDelta(anyInt(), anyLong(), any(), anyLong(), any())).thenReturn(1);
+
+        assertTrue(inventoryService.reconcile());
+        verify(inventorySummaryRepository).applyDelta(eq(0), eq(-3L), eq(new BigDecimal("-300.00")), eq(0L), any());
+        verify(inventorySummaryRepository, never()).save(any());
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(1.0, meterRegistry.get("product.inventory.reconcile.drift").counter().count());
+    }
+
+    @Test
+    void reconcile_missingFirstSlot_shouldRecreateIt() {
+        when(productRepository.computeInventoryTotals())
+                .thenReturn(Collections.singletonList(new Object[]{20L, new BigDecimal("2000.00"), 3L}));
+        when(inventorySummaryRepository.applyDelta(anyInt(), anyLong(), any(), anyLong(), any())).thenReturn(0);
+
+        assertTrue(inventoryService.reconcile());
+        verify(inventorySummaryRepository).save(argThat(slot -> slot.getSlot() == 0 && slot.getTotalQuantity() == 5L
+                && slot.getTotalValue().compareTo(BigDecimal.valueOf(500)) == 0 && slot.getProductCount() == 1L));
+    }
+}